@@ -0,0 +1,41 @@
+package nextstep.subway.changelog.application;
+
+import nextstep.subway.changelog.domain.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 보관 기간이 지난 변경 로그를 지운다.
+ * 새로 뜨는 노드는 역과 노선 테이블에서 캐시를 다시 읽으므로, 변경 로그는 실행 중인 노드가 따라잡을 만큼만 있으면 된다.
+ * 보관 기간은 poller 의 gap-timeout 보다 길어야 한다.
+ * poller 가 id 의 연속성을 판단할 수 있도록 가장 최근 변경 로그는 지우지 않는다.
+ */
+@Component
+public class ChangeLogCleaner {
+    private final ChangeLogRepository changeLogRepository;
+    private final long retentionMillis;
+
+    public ChangeLogCleaner(ChangeLogRepository changeLogRepository,
+                            @Value("${subway.change-log.retention:86400000}") long retentionMillis) {
+        this.changeLogRepository = changeLogRepository;
+        this.retentionMillis = retentionMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${subway.change-log.cleanup-interval:3600000}")
+    @Transactional
+    public void cleanup() {
+        deleteBefore(LocalDateTime.now().minus(retentionMillis, ChronoUnit.MILLIS));
+    }
+
+    @Transactional
+    public int deleteBefore(LocalDateTime before) {
+        return changeLogRepository.findFirstByOrderByIdDesc()
+                .map(latest -> changeLogRepository.deleteByCreatedDateBeforeAndIdLessThan(before, latest.getId()))
+                .orElse(0);
+    }
+}
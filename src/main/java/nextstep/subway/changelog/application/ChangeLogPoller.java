@@ -0,0 +1,113 @@
+package nextstep.subway.changelog.application;
+
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeLogListener;
+import nextstep.subway.changelog.domain.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다른 노드에서 발생한 변경을 변경 로그 테이블에서 읽어 순서대로 캐시에 반영한다.
+ * <p>
+ * 변경 로그의 id 는 커밋이 아니라 insert 시점에 발급되므로, 작은 id 가 나중에 커밋될 수 있다.
+ * 건너뛴 id 는 gap 으로 기억해 두었다가 gap-timeout 동안 다시 조회한다. 가장 최근 id 에서 GAP_WINDOW 보다 멀리 떨어진 id 는 추적하지 않는다.
+ * 시작할 때는 아직 커밋되지 않은 변경을 놓치지 않도록 최근 GAP_WINDOW 만큼의 변경을 다시 반영한다.
+ * 같은 역이나 노선에 대한 변경은 앞선 변경이 커밋된 뒤에야 일어날 수 있으므로, 늦게 반영되더라도 순서가 뒤바뀌지 않는다.
+ */
+@Component
+public class ChangeLogPoller {
+    private static final long GAP_WINDOW = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final List<ChangeLogListener> listeners;
+    private final long gapTimeoutMillis;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    private long lastSequence;
+
+    public ChangeLogPoller(ChangeLogRepository changeLogRepository, List<ChangeLogListener> listeners,
+                           @Value("${subway.change-log.gap-timeout:60000}") long gapTimeoutMillis) {
+        this.changeLogRepository = changeLogRepository;
+        this.listeners = listeners;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        lastSequence = Math.max(0, latestSequence() - GAP_WINDOW);
+        gaps.clear();
+        listeners.forEach(ChangeLogListener::load);
+    }
+
+    @Scheduled(initialDelayString = "${subway.change-log.poll-interval:1000}",
+            fixedDelayString = "${subway.change-log.poll-interval:1000}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        pollGaps(now);
+
+        List<ChangeLog> changeLogs = changeLogRepository.findTop100ByIdGreaterThanOrderByIdAsc(lastSequence);
+        if (changeLogs.isEmpty()) {
+            resetIfSequenceRestarted();
+            return;
+        }
+
+        for (ChangeLog changeLog : changeLogs) {
+            for (long id = Math.max(lastSequence + 1, changeLog.getId() - GAP_WINDOW); id < changeLog.getId(); id++) {
+                gaps.put(id, now);
+            }
+            apply(changeLog);
+            lastSequence = changeLog.getId();
+        }
+        evictOldestGaps();
+    }
+
+    private void evictOldestGaps() {
+        Iterator<Long> iterator = gaps.keySet().iterator();
+        while (gaps.size() > GAP_WINDOW && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void pollGaps(long now) {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        for (ChangeLog changeLog : changeLogRepository.findByIdInOrderByIdAsc(gaps.keySet())) {
+            apply(changeLog);
+            gaps.remove(changeLog.getId());
+        }
+        gaps.values().removeIf(detectedAt -> now - detectedAt > gapTimeoutMillis);
+    }
+
+    private void apply(ChangeLog changeLog) {
+        listeners.stream()
+                .filter(listener -> listener.getTarget() == changeLog.getTarget())
+                .forEach(listener -> listener.onChange(changeLog));
+    }
+
+    /**
+     * 정리 작업은 가장 최근 변경 로그를 남겨 두므로, 테이블이 비어 있는 것만으로는 id 가 다시 시작되었다고 보지 않는다.
+     */
+    private void resetIfSequenceRestarted() {
+        long latest = latestSequence();
+        if (latest > 0 && latest < lastSequence) {
+            lastSequence = latest;
+            gaps.clear();
+            listeners.forEach(ChangeLogListener::load);
+        }
+    }
+
+    private long latestSequence() {
+        return changeLogRepository.findFirstByOrderByIdDesc()
+                .map(ChangeLog::getId)
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,48 @@
+package nextstep.subway.changelog.domain;
+
+import nextstep.subway.common.BaseEntity;
+
+import javax.persistence.*;
+
+@Entity
+public class ChangeLog extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    private ChangeTarget target;
+    @Enumerated(EnumType.STRING)
+    private ChangeType type;
+    private Long targetId;
+    private String name;
+
+    public ChangeLog() {
+    }
+
+    public ChangeLog(ChangeTarget target, ChangeType type, Long targetId, String name) {
+        this.target = target;
+        this.type = type;
+        this.targetId = targetId;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ChangeTarget getTarget() {
+        return target;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,12 @@
+package nextstep.subway.changelog.domain;
+
+/**
+ * 변경 로그를 받아 노드 내 캐시를 갱신하는 대상.
+ */
+public interface ChangeLogListener {
+    ChangeTarget getTarget();
+
+    void onChange(ChangeLog changeLog);
+
+    void load();
+}
@@ -0,0 +1,23 @@
+package nextstep.subway.changelog.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+    List<ChangeLog> findTop100ByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<ChangeLog> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    Optional<ChangeLog> findFirstByOrderByIdDesc();
+
+    @Modifying
+    @Query("delete from ChangeLog c where c.createdDate < :before and c.id < :id")
+    int deleteByCreatedDateBeforeAndIdLessThan(@Param("before") LocalDateTime before, @Param("id") Long id);
+}
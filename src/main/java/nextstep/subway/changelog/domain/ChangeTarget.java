@@ -0,0 +1,6 @@
+package nextstep.subway.changelog.domain;
+
+public enum ChangeTarget {
+    STATION,
+    LINE
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.common;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+public class ConcurrencyLimitController {
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    public ConcurrencyLimitController(ConcurrencyLimitFilter concurrencyLimitFilter) {
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+    }
+
+    @GetMapping(value = "/concurrency-limits", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ConcurrencyLimitResponse>> showConcurrencyLimits() {
+        List<ConcurrencyLimitResponse> responses = concurrencyLimitFilter.getLimiters().entrySet().stream()
+                .map(entry -> ConcurrencyLimitResponse.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok().body(responses);
+    }
+}
@@ -0,0 +1,117 @@
+package nextstep.subway.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라우트별로 동시 처리 요청 수를 제한하고, 한도를 넘으면 대기시키지 않고 바로 503 으로 응답한다.
+ * 요청을 대기열에 쌓지 않으므로 대기 중인 요청 수 대신 처리 중인 요청 수를 집계한다.
+ * 화면(HTML) 요청은 API 와 지연 특성이 달라 제한 대상에서 제외한다.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final List<String> ROUTES = Arrays.asList("/stations", "/lines");
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 4;
+    private static final int MAX_LIMIT = 200;
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Map<String, GradientLimiter> limiters;
+    private final Map<String, Long> reportedRejections = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitFilter() {
+        this(INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT);
+    }
+
+    ConcurrencyLimitFilter(int initialLimit, int minLimit, int maxLimit) {
+        Map<String, GradientLimiter> limiters = new LinkedHashMap<>();
+        for (String route : ROUTES) {
+            limiters.put(route, new GradientLimiter(initialLimit, minLimit, maxLimit));
+        }
+        this.limiters = Collections.unmodifiableMap(limiters);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return isPageRequest(request) || findRoute(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        GradientLimiter limiter = limiters.get(findRoute(request.getRequestURI()));
+
+        if (!limiter.tryAcquire(isWrite(request))) {
+            // sendError 는 에러 페이지로 다시 디스패치하므로, 상태와 헤더만 채워 바로 돌려보낸다.
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 과부하 중 요청마다 로그를 남기지 않도록 거절 현황은 주기적으로 요약해서 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${subway.concurrency-limit.report-interval:60000}")
+    public void reportRejections() {
+        limiters.forEach((route, limiter) -> {
+            long rejected = limiter.getRejected();
+            long previous = reportedRejections.getOrDefault(route, 0L);
+            if (rejected > previous) {
+                log.warn("load shedding {}: rejected {} requests (limit={}, inflight={})",
+                        route, rejected - previous, limiter.getLimit(), limiter.getInflight());
+                reportedRejections.put(route, rejected);
+            }
+        });
+    }
+
+    public Map<String, GradientLimiter> getLimiters() {
+        return limiters;
+    }
+
+    private boolean isPageRequest(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return HttpMethod.GET.matches(request.getMethod())
+                && accept != null
+                && accept.contains(MediaType.TEXT_HTML_VALUE);
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private String findRoute(String uri) {
+        return ROUTES.stream()
+                .filter(route -> uri.equals(route) || uri.startsWith(route + "/"))
+                .findFirst()
+                .orElse(null);
+    }
+}
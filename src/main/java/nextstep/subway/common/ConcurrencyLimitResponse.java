@@ -0,0 +1,45 @@
+package nextstep.subway.common;
+
+public class ConcurrencyLimitResponse {
+    private String route;
+    private int limit;
+    private int inflight;
+    private long accepted;
+    private long rejected;
+
+    public ConcurrencyLimitResponse() {
+    }
+
+    public ConcurrencyLimitResponse(String route, int limit, int inflight, long accepted, long rejected) {
+        this.route = route;
+        this.limit = limit;
+        this.inflight = inflight;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    public static ConcurrencyLimitResponse of(String route, GradientLimiter limiter) {
+        return new ConcurrencyLimitResponse(route, limiter.getLimit(), limiter.getInflight(),
+                limiter.getAccepted(), limiter.getRejected());
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+}
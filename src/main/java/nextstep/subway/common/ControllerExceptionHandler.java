@@ -0,0 +1,24 @@
+package nextstep.subway.common;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ControllerExceptionHandler {
+    private static final String DATA_INTEGRITY_MESSAGE = "이미 존재하는 이름입니다.";
+
+    @ExceptionHandler(DuplicateNameException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateNameException(DuplicateNameException e) {
+        return ResponseEntity.badRequest().body(ErrorResponse.of(DuplicateNameException.CODE, e.getMessage()));
+    }
+
+    /**
+     * 이름 인덱스가 아직 다른 노드의 변경을 반영하지 못한 경우 DB unique 제약조건이 최종적으로 중복을 막는다.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        return ResponseEntity.badRequest().body(ErrorResponse.of(DuplicateNameException.CODE, DATA_INTEGRITY_MESSAGE));
+    }
+}
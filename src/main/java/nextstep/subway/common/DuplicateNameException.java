@@ -0,0 +1,10 @@
+package nextstep.subway.common;
+
+public class DuplicateNameException extends RuntimeException {
+    public static final String CODE = "DUPLICATE_NAME";
+
+    public DuplicateNameException(String message) {
+        // 자주 발생하는 검증 실패이므로 스택 트레이스를 채우지 않는다.
+        super(message, null, false, false);
+    }
+}
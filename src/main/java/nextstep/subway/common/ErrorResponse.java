@@ -0,0 +1,26 @@
+package nextstep.subway.common;
+
+public class ErrorResponse {
+    private String code;
+    private String message;
+
+    public ErrorResponse() {
+    }
+
+    public ErrorResponse(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    public static ErrorResponse of(String code, String message) {
+        return new ErrorResponse(code, message);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
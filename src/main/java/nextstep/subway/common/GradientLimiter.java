@@ -0,0 +1,123 @@
+package nextstep.subway.common;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 지연의 기울기(최소 지연 / 평활화된 지연)로 동시 처리 한도를 조절하는 리미터.
+ * 지연이 늘어나면 한도를 줄이고, 여유가 있으면 조금씩 늘린다.
+ * <p>
+ * 최소 지연은 주기적으로 다시 측정하되, 동시 처리 수가 최소 한도 이하인 한가한 상태의 표본만 사용한다.
+ * 혼잡한 상태의 지연이 기준값이 되어 부하 차단이 멈추는 것을 막기 위해서다.
+ */
+public class GradientLimiter {
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double RTT_SMOOTHING = 0.1;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double READ_SHARE = 0.8;
+    private static final int MIN_RTT_PROBE_INTERVAL = 1000;
+    private static final int MIN_RTT_PROBE_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile double limit;
+    private double smoothedRttNanos;
+    private long minRttNanos;
+    private int samplesSinceProbe;
+    private boolean probing;
+    private int probeSamples;
+    private long probeMinRttNanos;
+
+    public GradientLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 요청을 받아들일 수 있으면 true 를 반환한다.
+     * 쓰기 요청은 전체 한도를, 읽기 요청은 한도의 일부만 사용할 수 있어 과부하 시 읽기부터 거절된다.
+     */
+    public boolean tryAcquire(boolean write) {
+        int allowed = write ? (int) limit : Math.max(1, (int) (limit * READ_SHARE));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                accepted.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int current = inflight.getAndDecrement();
+        onSample(Math.max(1, rttNanos), current);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtSample) {
+        if (minRttNanos == 0) {
+            minRttNanos = rttNanos;
+            smoothedRttNanos = rttNanos;
+            return;
+        }
+        smoothedRttNanos = smoothedRttNanos * (1 - RTT_SMOOTHING) + rttNanos * RTT_SMOOTHING;
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+        probeMinRtt(rttNanos, inflightAtSample);
+
+        // 한도의 절반도 쓰지 않는 상황의 표본으로는 한도를 조절하지 않는다.
+        // 지연의 작은 흔들림만으로도 기울기가 1 보다 작아져 한도가 계속 늘어나기 때문이다.
+        if (inflightAtSample < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, minRttNanos / smoothedRttNanos));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    private void probeMinRtt(long rttNanos, int inflightAtSample) {
+        if (!probing) {
+            if (++samplesSinceProbe >= MIN_RTT_PROBE_INTERVAL) {
+                probing = true;
+                probeSamples = 0;
+                probeMinRttNanos = Long.MAX_VALUE;
+            }
+            return;
+        }
+        if (inflightAtSample > minLimit) {
+            return;
+        }
+        probeMinRttNanos = Math.min(probeMinRttNanos, rttNanos);
+        if (++probeSamples >= MIN_RTT_PROBE_SAMPLES) {
+            minRttNanos = probeMinRttNanos;
+            probing = false;
+            samplesSinceProbe = 0;
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
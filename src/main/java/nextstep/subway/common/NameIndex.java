@@ -0,0 +1,195 @@
+package nextstep.subway.common;
+
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeLogListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 이름 중복을 DB 제약조건 위반 예외 없이 미리 걸러내기 위한 메모리 인덱스.
+ * DB 의 unique 제약조건은 최종 방어선으로 그대로 유지한다.
+ */
+public abstract class NameIndex implements ChangeLogListener {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object reloadMonitor = new Object();
+    private final Set<String> reserved = ConcurrentHashMap.newKeySet();
+    private final Set<String> confirmed = ConcurrentHashMap.newKeySet();
+    private volatile Set<String> names = ConcurrentHashMap.newKeySet();
+    private Set<String> committedDuringReload;
+    private Set<String> releasedDuringReload;
+
+    /**
+     * DB 에서 이름을 다시 읽어 새 집합으로 바꿔 끼운다. 읽는 동안에도 기존 집합으로 중복을 걸러내고,
+     * 읽는 도중 커밋된 생성, 삭제와 아직 커밋되지 않은 선점 이름은 새 집합에 반영한다.
+     */
+    protected void reload(Supplier<Collection<String>> loader) {
+        synchronized (reloadMonitor) {
+            Set<String> committed = ConcurrentHashMap.newKeySet();
+            Set<String> released = ConcurrentHashMap.newKeySet();
+            withWriteLock(() -> {
+                committedDuringReload = committed;
+                releasedDuringReload = released;
+            });
+            try {
+                Set<String> reloaded = ConcurrentHashMap.newKeySet();
+                loader.get().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(reloaded::add);
+                withWriteLock(() -> {
+                    reloaded.addAll(reserved);
+                    reloaded.addAll(committed);
+                    reloaded.removeAll(released);
+                    names = reloaded;
+                });
+            } finally {
+                withWriteLock(() -> {
+                    committedDuringReload = null;
+                    releasedDuringReload = null;
+                });
+            }
+        }
+    }
+
+    /**
+     * 이름을 선점한다. 이미 사용 중이면 false 를 반환하고,
+     * 현재 트랜잭션이 롤백되면 선점했던 이름을 되돌린다.
+     */
+    public boolean reserve(String name) {
+        if (name == null) {
+            return true;
+        }
+        lock.readLock().lock();
+        try {
+            if (!names.add(name)) {
+                return false;
+            }
+            reserved.add(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+        afterCompletion(committed -> completeReservation(name, committed));
+        return true;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 이름을 해제한다.
+     */
+    public void release(String name) {
+        if (name == null) {
+            return;
+        }
+        afterCompletion(committed -> {
+            if (committed) {
+                completeRelease(name);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void onChange(ChangeLog changeLog) {
+        String name = changeLog.getName();
+        if (name == null) {
+            return;
+        }
+        withReadLock(() -> {
+            switch (changeLog.getType()) {
+                case CREATED:
+                    names.add(name);
+                    // 이 노드의 선점이 롤백되더라도 다른 노드에서 이미 만든 이름이므로 남겨 둔다.
+                    if (reserved.contains(name)) {
+                        confirmed.add(name);
+                    }
+                    break;
+                case DELETED:
+                    // 이 노드에서 같은 이름을 선점해 둔 상태라면 지우지 않는다.
+                    if (!reserved.contains(name)) {
+                        names.remove(name);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("지원하지 않는 변경 유형입니다: " + changeLog.getType());
+            }
+        });
+    }
+
+    public boolean contains(String name) {
+        return name != null && names.contains(name);
+    }
+
+    public void clear() {
+        withWriteLock(() -> {
+            names = ConcurrentHashMap.newKeySet();
+            confirmed.clear();
+        });
+    }
+
+    private synchronized void completeReservation(String name, boolean committed) {
+        withReadLock(() -> {
+            reserved.remove(name);
+            boolean confirmedElsewhere = confirmed.remove(name);
+            if (committed) {
+                if (committedDuringReload != null) {
+                    committedDuringReload.add(name);
+                    releasedDuringReload.remove(name);
+                }
+                return;
+            }
+            if (!confirmedElsewhere) {
+                names.remove(name);
+            }
+        });
+    }
+
+    private synchronized void completeRelease(String name) {
+        withReadLock(() -> {
+            names.remove(name);
+            if (releasedDuringReload != null) {
+                releasedDuringReload.add(name);
+                committedDuringReload.remove(name);
+            }
+        });
+    }
+
+    private void withReadLock(Runnable runnable) {
+        lock.readLock().lock();
+        try {
+            runnable.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void withWriteLock(Runnable runnable) {
+        lock.writeLock().lock();
+        try {
+            runnable.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCompletion(CompletionCallback callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.onComplete(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.onComplete(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private interface CompletionCallback {
+        void onComplete(boolean committed);
+    }
+}
@@ -1,6 +1,12 @@
 package nextstep.subway.line.application;
 
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeLogRepository;
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.changelog.domain.ChangeType;
+import nextstep.subway.common.DuplicateNameException;
 import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineNameIndex;
 import nextstep.subway.line.domain.LineRepository;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
@@ -11,13 +17,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class LineService {
     private LineRepository lineRepository;
+    private LineNameIndex lineNameIndex;
+    private ChangeLogRepository changeLogRepository;
 
-    public LineService(LineRepository lineRepository) {
+    public LineService(LineRepository lineRepository, LineNameIndex lineNameIndex,
+                       ChangeLogRepository changeLogRepository) {
         this.lineRepository = lineRepository;
+        this.lineNameIndex = lineNameIndex;
+        this.changeLogRepository = changeLogRepository;
     }
 
     public LineResponse saveLine(LineRequest request) {
+        if (!lineNameIndex.reserve(request.getName())) {
+            throw new DuplicateNameException("이미 존재하는 지하철 노선 이름입니다: " + request.getName());
+        }
         Line persistLine = lineRepository.save(request.toLine());
+        changeLogRepository.save(new ChangeLog(ChangeTarget.LINE, ChangeType.CREATED, persistLine.getId(), persistLine.getName()));
         return LineResponse.of(persistLine);
     }
 }
@@ -0,0 +1,28 @@
+package nextstep.subway.line.domain;
+
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.common.NameIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class LineNameIndex extends NameIndex {
+    private final LineRepository lineRepository;
+
+    public LineNameIndex(LineRepository lineRepository) {
+        this.lineRepository = lineRepository;
+    }
+
+    @Override
+    public ChangeTarget getTarget() {
+        return ChangeTarget.LINE;
+    }
+
+    @Override
+    public void load() {
+        reload(() -> lineRepository.findAll().stream()
+                .map(Line::getName)
+                .collect(Collectors.toList()));
+    }
+}
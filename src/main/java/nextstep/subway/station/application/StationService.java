@@ -1,6 +1,12 @@
 package nextstep.subway.station.application;
 
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeLogRepository;
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.changelog.domain.ChangeType;
+import nextstep.subway.common.DuplicateNameException;
 import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationNameIndex;
 import nextstep.subway.station.domain.StationRepository;
 import nextstep.subway.station.dto.StationRequest;
 import nextstep.subway.station.dto.StationResponse;
@@ -14,13 +20,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class StationService {
     private StationRepository stationRepository;
+    private StationNameIndex stationNameIndex;
+    private ChangeLogRepository changeLogRepository;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, StationNameIndex stationNameIndex,
+                          ChangeLogRepository changeLogRepository) {
         this.stationRepository = stationRepository;
+        this.stationNameIndex = stationNameIndex;
+        this.changeLogRepository = changeLogRepository;
     }
 
     public StationResponse saveStation(StationRequest stationRequest) {
+        if (!stationNameIndex.reserve(stationRequest.getName())) {
+            throw new DuplicateNameException("이미 존재하는 지하철역 이름입니다: " + stationRequest.getName());
+        }
         Station persistStation = stationRepository.save(stationRequest.toStation());
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, persistStation.getId(), persistStation.getName()));
         return StationResponse.of(persistStation);
     }
 
@@ -34,6 +49,11 @@ public class StationService {
     }
 
     public void deleteStationById(Long id) {
+        stationRepository.findById(id)
+                .ifPresent(station -> {
+                    stationNameIndex.release(station.getName());
+                    changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.DELETED, station.getId(), station.getName()));
+                });
         stationRepository.deleteById(id);
     }
 }
@@ -0,0 +1,28 @@
+package nextstep.subway.station.domain;
+
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.common.NameIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class StationNameIndex extends NameIndex {
+    private final StationRepository stationRepository;
+
+    public StationNameIndex(StationRepository stationRepository) {
+        this.stationRepository = stationRepository;
+    }
+
+    @Override
+    public ChangeTarget getTarget() {
+        return ChangeTarget.STATION;
+    }
+
+    @Override
+    public void load() {
+        reload(() -> stationRepository.findAll().stream()
+                .map(Station::getName)
+                .collect(Collectors.toList()));
+    }
+}
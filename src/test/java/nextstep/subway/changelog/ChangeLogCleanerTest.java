@@ -0,0 +1,52 @@
+package nextstep.subway.changelog;
+
+import nextstep.subway.changelog.application.ChangeLogCleaner;
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeLogRepository;
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.changelog.domain.ChangeType;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("변경 로그 정리")
+@SpringBootTest(properties = "subway.change-log.poll-interval=3600000")
+class ChangeLogCleanerTest {
+    @Autowired
+    private ChangeLogCleaner changeLogCleaner;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("보관 기간이 지난 변경 로그만 지우고, 가장 최근 변경 로그는 남긴다.")
+    @Test
+    void deleteExpiredChangeLogs() {
+        // given
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+        ChangeLog latest = changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 2L, "역삼역"));
+
+        // when
+        int notExpired = changeLogCleaner.deleteBefore(LocalDateTime.now().minusMinutes(1));
+        int expired = changeLogCleaner.deleteBefore(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(notExpired).isZero();
+        assertThat(expired).isEqualTo(1);
+        assertThat(changeLogRepository.findAll()).extracting(ChangeLog::getId).containsExactly(latest.getId());
+    }
+}
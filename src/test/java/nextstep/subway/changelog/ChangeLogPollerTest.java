@@ -0,0 +1,188 @@
+package nextstep.subway.changelog;
+
+import nextstep.subway.changelog.application.ChangeLogPoller;
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeLogRepository;
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.changelog.domain.ChangeType;
+import nextstep.subway.line.domain.LineNameIndex;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationNameIndex;
+import nextstep.subway.station.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("변경 로그 반영")
+@SpringBootTest(properties = "subway.change-log.poll-interval=3600000")
+class ChangeLogPollerTest {
+    @Autowired
+    private ChangeLogPoller changeLogPoller;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private StationNameIndex stationNameIndex;
+
+    @Autowired
+    private LineNameIndex lineNameIndex;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        changeLogPoller.init();
+    }
+
+    @DisplayName("변경 로그를 읽어 지하철역과 노선의 이름 인덱스에 반영한다.")
+    @Test
+    void applyChangeLogs() {
+        // given
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+        changeLogRepository.save(new ChangeLog(ChangeTarget.LINE, ChangeType.CREATED, 1L, "신분당선"));
+
+        // when
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("강남역")).isTrue();
+        assertThat(lineNameIndex.contains("신분당선")).isTrue();
+        assertThat(lineNameIndex.contains("강남역")).isFalse();
+
+        // when
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.DELETED, 1L, "강남역"));
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("강남역")).isFalse();
+    }
+
+    @DisplayName("먼저 발급된 변경 로그가 나중에 커밋되어도 반영한다.")
+    @Test
+    void applyChangeLogCommittedOutOfOrder() throws Exception {
+        // given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+            inserted.countDown();
+            await(commit);
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 2L, "역삼역"));
+
+        // when
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("역삼역")).isTrue();
+        assertThat(stationNameIndex.contains("강남역")).isFalse();
+
+        // when
+        commit.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("강남역")).isTrue();
+        assertThat(stationNameIndex.contains("역삼역")).isTrue();
+    }
+
+    @DisplayName("변경 로그의 id 가 처음부터 다시 시작되면 이름 인덱스를 다시 읽는다.")
+    @Test
+    void reloadWhenSequenceRestarted() {
+        // given
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 2L, "역삼역"));
+        changeLogPoller.poll();
+        databaseCleanup.execute();
+        stationRepository.save(new Station("선릉역"));
+        changeLogRepository.save(new ChangeLog(ChangeTarget.LINE, ChangeType.CREATED, 1L, "2호선"));
+
+        // when
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("선릉역")).isTrue();
+        assertThat(stationNameIndex.contains("강남역")).isFalse();
+    }
+
+    @DisplayName("변경 로그가 모두 지워진 뒤 새 변경이 생겨도 id 가 다시 시작된 것으로 보지 않는다.")
+    @Test
+    void continueAfterChangeLogsPruned() {
+        // given
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 2L, "역삼역"));
+        changeLogPoller.poll();
+        changeLogRepository.deleteAll();
+        stationRepository.save(new Station("선릉역"));
+        changeLogPoller.poll();
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 3L, "교대역"));
+
+        // when
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("교대역")).isTrue();
+        assertThat(stationNameIndex.contains("선릉역")).isFalse();
+    }
+
+    @DisplayName("시작할 때 아직 커밋되지 않았던 변경도 커밋된 뒤 반영한다.")
+    @Test
+    void applyChangeLogUncommittedAtInit() throws Exception {
+        // given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+            inserted.countDown();
+            await(commit);
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        changeLogRepository.save(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 2L, "역삼역"));
+        changeLogPoller.init();
+
+        // when
+        commit.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        changeLogPoller.poll();
+
+        // then
+        assertThat(stationNameIndex.contains("강남역")).isTrue();
+        assertThat(stationNameIndex.contains("역삼역")).isTrue();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
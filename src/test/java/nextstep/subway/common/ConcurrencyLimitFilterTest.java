@@ -0,0 +1,57 @@
+package nextstep.subway.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("동시 처리 제한 필터")
+class ConcurrencyLimitFilterTest {
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 1, 1);
+
+    @DisplayName("한도를 넘으면 Retry-After 와 함께 503 으로 응답한다.")
+    @Test
+    void rejectOnOverload() throws Exception {
+        filter.getLimiters().get("/stations").tryAcquire(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/stations"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsString()).isEmpty();
+        assertThat(response.getErrorMessage()).isNull();
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @DisplayName("한도 안에서는 요청을 처리하고 처리 중인 요청 수를 되돌린다.")
+    @Test
+    void passWithinLimit() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/lines"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(filter.getLimiters().get("/lines").getInflight()).isZero();
+    }
+
+    @DisplayName("화면 요청은 제한하지 않는다.")
+    @Test
+    void skipPageRequest() throws Exception {
+        filter.getLimiters().get("/stations").tryAcquire(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stations");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_HTML_VALUE);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,131 @@
+package nextstep.subway.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지연 기울기 기반 동시 처리 리미터")
+class GradientLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @DisplayName("지연이 늘어나면 한도를 줄인다.")
+    @Test
+    void shrinkOnRisingRtt() {
+        GradientLimiter limiter = new GradientLimiter(20, 4, 200);
+        sample(limiter, FAST, 1);
+        hold(limiter, 10);
+
+        sample(limiter, SLOW, 5);
+
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    @DisplayName("지연이 그대로인 채로 한도를 많이 사용하면 한도를 늘린다.")
+    @Test
+    void growUnderLoad() {
+        GradientLimiter limiter = new GradientLimiter(20, 4, 200);
+        sample(limiter, FAST, 1);
+        hold(limiter, 15);
+
+        sample(limiter, FAST, 20);
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @DisplayName("한도를 적게 사용하면 지연이 흔들려도 한도를 늘리지 않는다.")
+    @Test
+    void notGrowWhenIdle() {
+        GradientLimiter limiter = new GradientLimiter(20, 4, 200);
+        Random random = new Random(0);
+
+        for (int i = 0; i < 2000; i++) {
+            long jitter = (long) (FAST * 5 * 0.1 * (random.nextDouble() * 2 - 1));
+            sample(limiter, FAST * 5 + jitter, 1);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @DisplayName("한도는 최소값 아래로 내려가지 않는다.")
+    @Test
+    void clampToMinLimit() {
+        GradientLimiter limiter = new GradientLimiter(10, 6, 200);
+        sample(limiter, FAST, 1);
+        hold(limiter, 4);
+
+        sample(limiter, SLOW, 200);
+
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @DisplayName("한도는 최대값 위로 올라가지 않는다.")
+    @Test
+    void clampToMaxLimit() {
+        GradientLimiter limiter = new GradientLimiter(5, 2, 10);
+        sample(limiter, FAST, 1);
+        hold(limiter, 4);
+
+        sample(limiter, FAST, 200);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @DisplayName("혼잡한 상태의 지연으로는 최소 지연을 다시 측정하지 않는다.")
+    @Test
+    void keepMinRttUnderCongestion() {
+        GradientLimiter limiter = new GradientLimiter(8, 2, 200);
+        sample(limiter, FAST, 1);
+        hold(limiter, 3);
+
+        sample(limiter, SLOW, 1500);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @DisplayName("과부하 시 읽기 요청이 쓰기 요청보다 먼저 거절된다.")
+    @Test
+    void rejectReadsBeforeWrites() {
+        GradientLimiter limiter = new GradientLimiter(10, 1, 10);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(limiter.tryAcquire(false)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(false)).isFalse();
+        assertThat(limiter.tryAcquire(true)).isTrue();
+        assertThat(limiter.tryAcquire(true)).isTrue();
+        assertThat(limiter.tryAcquire(true)).isFalse();
+        assertThat(limiter.getAccepted()).isEqualTo(10);
+        assertThat(limiter.getRejected()).isEqualTo(2);
+    }
+
+    @DisplayName("요청이 끝나면 처리 중인 요청 수가 줄어든다.")
+    @Test
+    void releaseDecrementsInflight() {
+        GradientLimiter limiter = new GradientLimiter(10, 1, 10);
+        limiter.tryAcquire(true);
+        limiter.tryAcquire(true);
+
+        limiter.release(FAST);
+
+        assertThat(limiter.getInflight()).isEqualTo(1);
+    }
+
+    private void hold(GradientLimiter limiter, int count) {
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire(true);
+        }
+    }
+
+    private void sample(GradientLimiter limiter, long rttNanos, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limiter.tryAcquire(true)).isTrue();
+            limiter.release(rttNanos);
+        }
+    }
+}
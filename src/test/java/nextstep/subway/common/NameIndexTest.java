@@ -0,0 +1,174 @@
+package nextstep.subway.common;
+
+import nextstep.subway.changelog.domain.ChangeLog;
+import nextstep.subway.changelog.domain.ChangeTarget;
+import nextstep.subway.changelog.domain.ChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("이름 인덱스")
+class NameIndexTest {
+    private final NameIndex nameIndex = new TestNameIndex();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("이미 선점된 이름은 다시 선점할 수 없다.")
+    @Test
+    void reserveDuplicate() {
+        assertThat(nameIndex.reserve("강남역")).isTrue();
+        assertThat(nameIndex.reserve("강남역")).isFalse();
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 선점한 이름을 되돌린다.")
+    @Test
+    void reserveThenRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(nameIndex.reserve("강남역")).isTrue();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(nameIndex.contains("강남역")).isFalse();
+        assertThat(nameIndex.reserve("강남역")).isTrue();
+    }
+
+    @DisplayName("트랜잭션이 커밋되면 선점한 이름을 유지한다.")
+    @Test
+    void reserveThenCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(nameIndex.reserve("강남역")).isTrue();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(nameIndex.reserve("강남역")).isFalse();
+    }
+
+    @DisplayName("이름 해제는 트랜잭션이 커밋될 때만 반영된다.")
+    @Test
+    void releaseOnlyOnCommit() {
+        nameIndex.reserve("강남역");
+
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.release("강남역");
+        assertThat(nameIndex.contains("강남역")).isTrue();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(nameIndex.contains("강남역")).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.release("강남역");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(nameIndex.contains("강남역")).isFalse();
+    }
+
+    @DisplayName("다시 읽어도 아직 커밋되지 않은 선점 이름은 유지한다.")
+    @Test
+    void reloadKeepsReservations() {
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.reserve("강남역");
+
+        nameIndex.reload(() -> Arrays.asList("역삼역"));
+
+        assertThat(nameIndex.contains("강남역")).isTrue();
+        assertThat(nameIndex.contains("역삼역")).isTrue();
+    }
+
+    @DisplayName("다시 읽는 도중 커밋된 선점 이름을 유지한다.")
+    @Test
+    void reloadKeepsReservationCommittedDuringLoad() {
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.reserve("강남역");
+        List<TransactionSynchronization> synchronizations = detach();
+
+        nameIndex.reload(() -> {
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+            return Collections.emptyList();
+        });
+
+        assertThat(nameIndex.contains("강남역")).isTrue();
+    }
+
+    @DisplayName("다시 읽는 도중 해제된 이름은 다시 넣지 않는다.")
+    @Test
+    void reloadDropsNameReleasedDuringLoad() {
+        nameIndex.reserve("강남역");
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.release("강남역");
+        List<TransactionSynchronization> synchronizations = detach();
+
+        nameIndex.reload(() -> {
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+            return Arrays.asList("강남역");
+        });
+
+        assertThat(nameIndex.contains("강남역")).isFalse();
+    }
+
+    @DisplayName("다른 노드의 생성, 삭제 변경을 반영한다.")
+    @Test
+    void applyRemoteChanges() {
+        nameIndex.onChange(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+        assertThat(nameIndex.contains("강남역")).isTrue();
+
+        nameIndex.onChange(new ChangeLog(ChangeTarget.STATION, ChangeType.DELETED, 1L, "강남역"));
+        assertThat(nameIndex.contains("강남역")).isFalse();
+    }
+
+    @DisplayName("다른 노드의 삭제 변경이 이 노드가 선점한 이름을 지우지 않는다.")
+    @Test
+    void remoteDeleteKeepsReservation() {
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.reserve("강남역");
+
+        nameIndex.onChange(new ChangeLog(ChangeTarget.STATION, ChangeType.DELETED, 1L, "강남역"));
+
+        assertThat(nameIndex.contains("강남역")).isTrue();
+    }
+
+    @DisplayName("선점한 이름을 다른 노드가 먼저 만들었다면 롤백되어도 이름을 유지한다.")
+    @Test
+    void remoteCreateSurvivesRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        nameIndex.reserve("강남역");
+        nameIndex.onChange(new ChangeLog(ChangeTarget.STATION, ChangeType.CREATED, 1L, "강남역"));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(nameIndex.contains("강남역")).isTrue();
+    }
+
+    private void complete(int status) {
+        TransactionSynchronizationUtils.invokeAfterCompletion(detach(), status);
+    }
+
+    private List<TransactionSynchronization> detach() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private static class TestNameIndex extends NameIndex {
+        @Override
+        public ChangeTarget getTarget() {
+            return ChangeTarget.STATION;
+        }
+
+        @Override
+        public void load() {
+            reload(Collections::emptyList);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import nextstep.subway.common.NameIndex;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
@@ -18,8 +19,14 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final List<NameIndex> nameIndexes;
+
     private List<String> tableNames;
 
+    public DatabaseCleanup(List<NameIndex> nameIndexes) {
+        this.nameIndexes = nameIndexes;
+    }
+
     @Override
     public void afterPropertiesSet() {
         tableNames = entityManager.getMetamodel().getEntities().stream()
@@ -39,5 +46,7 @@ public class DatabaseCleanup implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        nameIndexes.forEach(NameIndex::clear);
     }
 }
\ No newline at end of file